@@ -1,13 +1,25 @@
 package com.competitivearmylists.scrapingservice.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 @Configuration
 public class RestTemplateConfig {
+
+    @Value("${scraper.http.connect-timeout-ms:5000}")
+    private int connectTimeoutMs;  // bounded so a dead host fails fast instead of holding a concurrency permit
+
+    @Value("${scraper.http.read-timeout-ms:30000}")
+    private int readTimeoutMs;     // bounded so a hung response surfaces as a timeout the limiter backs off on
+
     @Bean
     public RestTemplate restTemplate() {
-        return new RestTemplate();
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(connectTimeoutMs);
+        requestFactory.setReadTimeout(readTimeoutMs);
+        return new RestTemplate(requestFactory);
     }
 }
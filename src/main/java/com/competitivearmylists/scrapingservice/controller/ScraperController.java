@@ -1,6 +1,8 @@
 package com.competitivearmylists.scrapingservice.controller;
 
 import com.competitivearmylists.scrapingservice.model.CompetitorEventResultDto;
+import com.competitivearmylists.scrapingservice.service.AdaptiveConcurrencyLimiter;
+import com.competitivearmylists.scrapingservice.service.ConcurrencyLimiterRegistry;
 import com.competitivearmylists.scrapingservice.service.Scraper;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -24,16 +26,22 @@ public class ScraperController {
     @Autowired
     private RestTemplate restTemplate;
 
+    @Autowired
+    private ConcurrencyLimiterRegistry concurrencyLimiters;
+
     @PostMapping("/scrapeData")
     public List<CompetitorEventResultDto> scrapeData() {
         // Call scraper to retrieve a list of competitor event results
         List<CompetitorEventResultDto> results = scraper.scrapeData(); // scrapeData now returns a list
 
+        // storage.url points at the same StorageService as the scheduled job, so both share one limit
+        AdaptiveConcurrencyLimiter limiter = concurrencyLimiters.forStorageService();
+
         // Iterate through the list and post each CompetitorEventResultDto separately
         for (CompetitorEventResultDto result : results) {
             // Post each result to the storage service
             // (Previously used a hardcoded STORAGE_URL; now uses configured storageUrl)
-            restTemplate.postForObject(storageUrl + "/results", result, Void.class);
+            limiter.execute(() -> restTemplate.postForObject(storageUrl + "/results", result, Void.class));
         }
 
         // Return the list of results (could also return a status or count if needed)
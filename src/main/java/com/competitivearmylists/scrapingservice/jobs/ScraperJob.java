@@ -1,5 +1,7 @@
 package com.competitivearmylists.scrapingservice.jobs;
 
+import com.competitivearmylists.scrapingservice.service.AdaptiveConcurrencyLimiter;
+import com.competitivearmylists.scrapingservice.service.ConcurrencyLimiterRegistry;
 import com.competitivearmylists.scrapingservice.service.Scraper;
 import com.competitivearmylists.scrapingservice.model.CompetitorEventResultDto;
 import lombok.RequiredArgsConstructor;
@@ -18,7 +20,8 @@ import java.util.List;
 public class ScraperJob {
 
     private final Scraper scraper;
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final ConcurrencyLimiterRegistry concurrencyLimiters;
+    private final RestTemplate restTemplate;  // shared bean, configured with connect/read timeouts
 
     // Base URL for the StorageService (injected from configuration)
     @Value("${storage.service.url}")
@@ -36,10 +39,12 @@ public class ScraperJob {
             if (scrapedResults.isEmpty()) {
                 log.warn("No results scraped in this run.");
             } else {
-                // Send each result to the StorageService
+                // Send each result to the StorageService, bounded by its adaptive concurrency limit
+                AdaptiveConcurrencyLimiter limiter = concurrencyLimiters.forStorageService();
                 for (CompetitorEventResultDto result : scrapedResults) {
                     String endpoint = storageServiceBaseUrl + "/api/v1/cer";
-                    ResponseEntity<Void> response = restTemplate.postForEntity(endpoint, result, Void.class);
+                    ResponseEntity<Void> response = limiter.execute(
+                            () -> restTemplate.postForEntity(endpoint, result, Void.class));
                     if (response.getStatusCode().is2xxSuccessful()) {
                         log.debug("Posted result for {} {} to StorageService successfully.",
                                 result.getFirstName(), result.getLastName());
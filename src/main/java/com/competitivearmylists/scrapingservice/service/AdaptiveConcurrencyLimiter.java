@@ -0,0 +1,181 @@
+package com.competitivearmylists.scrapingservice.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.util.function.DoubleSupplier;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * AIMD concurrency limiter for outbound HTTP calls.
+ * Latency is judged per window of samples: the window's minimum RTT is compared against a long-term smoothed RTT,
+ * so ordinary tail latency does not trigger a back-off but a sustained shift does. Each window either grows the
+ * limit by one (if it was actually in use) or cuts it multiplicatively on latency inflation or heap pressure.
+ * 429 responses and I/O failures (including timeouts) cut the limit immediately.
+ * Callers block in {@link #execute(Supplier)} until a permit is available, up to the configured acquire timeout.
+ */
+@Slf4j
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double BACKOFF_RATIO = 0.9;      // multiplicative decrease factor
+    private static final double RTT_SMOOTHING = 0.1;      // EWMA weight of a window's minimum in the long-term RTT
+    private static final int WINDOW_SIZE = 10;            // successful samples per limit decision
+
+    private enum Outcome { SUCCESS, DROPPED, IGNORED }
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double latencyTolerance;  // window minimum above long-term RTT * tolerance counts as inflation
+    private final double heapThreshold;     // fraction of max heap above which we back off
+    private final long acquireTimeoutNanos;
+    private final DoubleSupplier heapUsage; // current heap usage as a fraction of max heap
+    private final LongSupplier nanoClock;   // used to time calls; overridable so tests can simulate latency
+
+    private volatile int limit;
+    private volatile int inFlight;
+    private double longTermRttNanos;
+    private boolean baselineSeeded;         // false until the first window completes
+    private long windowMinRttNanos = Long.MAX_VALUE;
+    private int windowSamples;
+    private boolean windowSaturated;        // whether the limit was in use at any point in the current window
+
+    public AdaptiveConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit,
+                                      double latencyTolerance, double heapThreshold, Duration acquireTimeout,
+                                      DoubleSupplier heapUsage) {
+        this(name, initialLimit, minLimit, maxLimit, latencyTolerance, heapThreshold, acquireTimeout,
+                heapUsage, System::nanoTime);
+    }
+
+    public AdaptiveConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit,
+                                      double latencyTolerance, double heapThreshold, Duration acquireTimeout,
+                                      DoubleSupplier heapUsage, LongSupplier nanoClock) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Invalid limit bounds: min=" + minLimit + ", max=" + maxLimit);
+        }
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyTolerance = latencyTolerance;
+        this.heapThreshold = heapThreshold;
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+        this.heapUsage = heapUsage;
+        this.nanoClock = nanoClock;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * Runs the call once a permit is available and feeds its latency and outcome back into the limit.
+     * Anything thrown by the call is rethrown unchanged; the permit is always released exactly once.
+     *
+     * @throws IllegalStateException if no permit becomes available within the acquire timeout
+     */
+    public <T> T execute(Supplier<T> call) {
+        acquire();
+        Outcome outcome = Outcome.IGNORED;  // errors other than the ones below say nothing about capacity
+        long start = nanoClock.getAsLong();
+        try {
+            T result = call.get();
+            outcome = isRateLimited(result) ? Outcome.DROPPED : Outcome.SUCCESS;
+            return result;
+        } catch (HttpClientErrorException.TooManyRequests | ResourceAccessException e) {
+            // Rate limited, timed out or unreachable: the target is telling us to slow down
+            outcome = Outcome.DROPPED;
+            throw e;
+        } finally {
+            onComplete(outcome, nanoClock.getAsLong() - start);
+        }
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight;
+    }
+
+    private static boolean isRateLimited(Object result) {
+        return result instanceof ResponseEntity<?> response
+                && response.getStatusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+    private synchronized void acquire() {
+        long deadline = System.nanoTime() + acquireTimeoutNanos;
+        while (inFlight >= limit) {
+            long remainingNanos = deadline - System.nanoTime();
+            if (remainingNanos <= 0) {
+                throw new IllegalStateException("Timed out waiting for a '" + name + "' concurrency permit"
+                        + " (limit " + limit + ", in flight " + inFlight + ")");
+            }
+            try {
+                Duration remaining = Duration.ofNanos(remainingNanos);
+                wait(Math.max(1, remaining.toMillis()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for a '" + name + "' concurrency permit", e);
+            }
+        }
+        inFlight++;
+    }
+
+    private synchronized void onComplete(Outcome outcome, long rttNanos) {
+        // Was the limit actually being used? Growing an idle limit would let it drift arbitrarily high
+        windowSaturated |= inFlight * 2 >= limit;
+        inFlight--;
+        notifyAll();
+        // The permit is handed back above, so a failure while adjusting can no longer leak or double-release it
+        try {
+            if (outcome == Outcome.DROPPED) {
+                decrease("request rejected, timed out or failed to connect");
+            } else if (outcome == Outcome.SUCCESS) {
+                addSample(rttNanos);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to update concurrency limit '{}': {}", name, e.getMessage());
+        }
+    }
+
+    private void addSample(long rttNanos) {
+        windowMinRttNanos = Math.min(windowMinRttNanos, rttNanos);
+        if (++windowSamples < WINDOW_SIZE) {
+            return;
+        }
+        long windowMin = windowMinRttNanos;
+        boolean saturated = windowSaturated;
+        windowMinRttNanos = Long.MAX_VALUE;
+        windowSamples = 0;
+        windowSaturated = false;
+
+        if (!baselineSeeded) {
+            // First window only seeds the baseline; its minimum already discounts cold connection/JIT samples
+            longTermRttNanos = windowMin;
+            baselineSeeded = true;
+            return;
+        }
+        boolean latencyInflated = windowMin > longTermRttNanos * latencyTolerance;
+        if (latencyInflated) {
+            decrease("window min latency " + windowMin / 1_000_000 + "ms above long-term "
+                    + (long) longTermRttNanos / 1_000_000 + "ms");
+        } else if (heapUsage.getAsDouble() > heapThreshold) {
+            decrease("heap pressure");
+        } else if (saturated && limit < maxLimit) {
+            limit++;
+            notifyAll();
+        }
+        longTermRttNanos += (windowMin - longTermRttNanos) * RTT_SMOOTHING;
+    }
+
+    private void decrease(String reason) {
+        int newLimit = Math.max(minLimit, (int) (limit * BACKOFF_RATIO));
+        if (newLimit != limit) {
+            log.debug("Concurrency limit '{}' reduced from {} to {}: {}", name, limit, newLimit, reason);
+            limit = newLimit;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.competitivearmylists.scrapingservice.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Hands out one {@link AdaptiveConcurrencyLimiter} per outbound target (e.g. per scraped host, or the StorageService)
+ * and publishes each limiter's current limit and in-flight count as Micrometer gauges.
+ */
+@Slf4j
+@Component
+public class ConcurrencyLimiterRegistry {
+
+    /**
+     * Limiter name shared by every push to the StorageService.
+     */
+    public static final String STORAGE_SERVICE = "storage-service";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, AdaptiveConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+    private final DoubleSupplier heapUsage = postGcHeapUsage();
+
+    private final int initialLimit;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double latencyTolerance;  // RTT multiple over the long-term average treated as overload
+    private final double heapThreshold;     // fraction of max heap (after GC) above which limits back off
+    private final Duration acquireTimeout;  // longest a caller waits for a permit before giving up
+
+    public ConcurrencyLimiterRegistry(MeterRegistry meterRegistry,
+                                      @Value("${scraper.concurrency.initial-limit:4}") int initialLimit,
+                                      @Value("${scraper.concurrency.min-limit:1}") int minLimit,
+                                      @Value("${scraper.concurrency.max-limit:32}") int maxLimit,
+                                      @Value("${scraper.concurrency.latency-tolerance:2.0}") double latencyTolerance,
+                                      @Value("${scraper.concurrency.heap-threshold:0.85}") double heapThreshold,
+                                      @Value("${scraper.concurrency.acquire-timeout-ms:60000}") long acquireTimeoutMs) {
+        this.meterRegistry = meterRegistry;
+        this.initialLimit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyTolerance = latencyTolerance;
+        this.heapThreshold = heapThreshold;
+        this.acquireTimeout = Duration.ofMillis(acquireTimeoutMs);
+    }
+
+    /**
+     * Returns the limiter for the host of the given URL, creating it on first use.
+     * URLs whose host cannot be determined (e.g. unparseable ones) get a limiter keyed by the raw URL.
+     */
+    public AdaptiveConcurrencyLimiter forUrl(String url) {
+        String host = null;
+        try {
+            host = UriComponentsBuilder.fromUriString(url).build().getHost();
+        } catch (IllegalArgumentException e) {
+            log.debug("Could not extract host from '{}', limiting by full URL: {}", url, e.getMessage());
+        }
+        return forName(host != null ? host : url);
+    }
+
+    /**
+     * Returns the limiter for pushes to the StorageService.
+     * The scheduled job ({@code storage.service.url}) and the controller ({@code storage.url}) both post to the
+     * single StorageService deployment, so they share this one limit regardless of which base URL they use.
+     */
+    public AdaptiveConcurrencyLimiter forStorageService() {
+        return forName(STORAGE_SERVICE);
+    }
+
+    /**
+     * Returns the limiter registered under the given name, creating it on first use.
+     */
+    public AdaptiveConcurrencyLimiter forName(String name) {
+        return limiters.computeIfAbsent(name, this::createLimiter);
+    }
+
+    private AdaptiveConcurrencyLimiter createLimiter(String name) {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(name, initialLimit, minLimit, maxLimit,
+                latencyTolerance, heapThreshold, acquireTimeout, heapUsage);
+        Gauge.builder("scraper.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .tag("target", name)
+                .description("Current adaptive concurrency limit")
+                .register(meterRegistry);
+        Gauge.builder("scraper.concurrency.inflight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .tag("target", name)
+                .description("Requests currently holding a concurrency permit")
+                .register(meterRegistry);
+        return limiter;
+    }
+
+    /**
+     * Heap occupancy of the old/tenured pool as measured after its last collection, as a fraction of max heap.
+     * Instantaneous heap usage includes garbage awaiting a young GC and routinely spikes past any sensible
+     * threshold on a healthy G1 heap, so only post-GC occupancy is a meaningful pressure signal.
+     * Falls back to "no pressure" when the JVM exposes no such pool.
+     */
+    private static DoubleSupplier postGcHeapUsage() {
+        Optional<MemoryPoolMXBean> oldGen = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP && pool.isCollectionUsageThresholdSupported())
+                .filter(pool -> pool.getName().contains("Old") || pool.getName().contains("Tenured"))
+                .findFirst();
+        if (oldGen.isEmpty()) {
+            log.warn("No old generation memory pool found; heap pressure will not reduce concurrency limits");
+            return () -> 0.0;
+        }
+        MemoryPoolMXBean pool = oldGen.get();
+        return () -> {
+            MemoryUsage usage = pool.getCollectionUsage();
+            if (usage == null) {
+                return 0.0;
+            }
+            long max = usage.getMax() > 0 ? usage.getMax() : Runtime.getRuntime().maxMemory();
+            return (double) usage.getUsed() / max;
+        };
+    }
+}
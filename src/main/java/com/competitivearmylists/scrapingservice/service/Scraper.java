@@ -28,6 +28,7 @@ public class Scraper {
 
     private final AuthService authService;
     private final RestTemplate restTemplate;
+    private final ConcurrencyLimiterRegistry concurrencyLimiters;
 
     @Value("${scrape.targetUrl:https://example.com/competition/results}")
     private String targetUrl;
@@ -46,12 +47,15 @@ public class Scraper {
         headers.setBearerAuth(token);
         HttpEntity<String> requestEntity = new HttpEntity<>(headers);
 
+        // Fetches to the same site share an adaptive in-flight limit
+        AdaptiveConcurrencyLimiter limiter = concurrencyLimiters.forUrl(targetUrl);
+
         String htmlContent = null;
         int maxRetries = 3;
         for (int attempt = 1; attempt <= maxRetries; attempt++) {
             try {
-                ResponseEntity<String> response = restTemplate.exchange(
-                        targetUrl, HttpMethod.GET, requestEntity, String.class);
+                ResponseEntity<String> response = limiter.execute(() -> restTemplate.exchange(
+                        targetUrl, HttpMethod.GET, requestEntity, String.class));
                 if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
                     htmlContent = response.getBody();
                     log.debug("Successfully fetched data on attempt {}/{}", attempt, maxRetries);
@@ -0,0 +1,199 @@
+package com.competitivearmylists.scrapingservice;
+
+import com.competitivearmylists.scrapingservice.service.AdaptiveConcurrencyLimiter;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimiterTests {
+
+    private static final Duration ACQUIRE_TIMEOUT = Duration.ofSeconds(5);
+
+    // Simulated clock: each call advances it by the latency it is supposed to take
+    private final AtomicLong clock = new AtomicLong();
+
+    private AdaptiveConcurrencyLimiter limiter(int initial, int min, int max, double tolerance, DoubleSupplier heap) {
+        return new AdaptiveConcurrencyLimiter("test", initial, min, max, tolerance, 0.85, ACQUIRE_TIMEOUT,
+                heap, clock::get);
+    }
+
+    private void callTaking(AdaptiveConcurrencyLimiter limiter, long millis, int times) {
+        for (int i = 0; i < times; i++) {
+            limiter.execute(() -> clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis)));
+        }
+    }
+
+    @Test
+    void limitGrowsWhileSaturatedAndLatencyIsStable() {
+        // A limit of 1 is fully used by a single sequential call, so each stable window should grow it
+        AdaptiveConcurrencyLimiter limiter = limiter(1, 1, 3, 2.0, () -> 0.0);
+
+        callTaking(limiter, 10, 50);
+
+        assertEquals(3, limiter.getLimit(), "Limit should grow up to the configured maximum");
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void limitBacksOffOnSustainedLatencyInflation() {
+        AdaptiveConcurrencyLimiter limiter = limiter(10, 1, 32, 2.0, () -> 0.0);
+
+        callTaking(limiter, 10, 10);   // first window seeds the 10ms baseline
+        assertEquals(10, limiter.getLimit());
+
+        callTaking(limiter, 50, 10);   // every sample in the window is 5x slower
+
+        assertEquals(9, limiter.getLimit(), "An inflated window should cut the limit by 10%");
+    }
+
+    @Test
+    void isolatedTailLatencyDoesNotCutLimit() {
+        AdaptiveConcurrencyLimiter limiter = limiter(10, 1, 32, 2.0, () -> 0.0);
+
+        callTaking(limiter, 10, 10);
+        callTaking(limiter, 10, 9);
+        callTaking(limiter, 500, 1);   // one p99-style outlier in an otherwise normal window
+
+        assertEquals(10, limiter.getLimit(), "A single slow sample should not count as inflation");
+    }
+
+    @Test
+    void coldFirstCallDoesNotSeedBaseline() {
+        AdaptiveConcurrencyLimiter limiter = limiter(10, 1, 32, 2.0, () -> 0.0);
+
+        callTaking(limiter, 2000, 1);  // connection/TLS setup and JIT warm-up
+        callTaking(limiter, 10, 9);
+        callTaking(limiter, 30, 10);   // 3x the warm latency, but far below the cold call
+
+        assertEquals(9, limiter.getLimit(), "Inflation should be judged against warm, not cold, latency");
+    }
+
+    @Test
+    void limitBacksOffOnTooManyRequests() {
+        AdaptiveConcurrencyLimiter limiter = limiter(20, 1, 32, 2.0, () -> 0.0);
+
+        assertThrows(HttpClientErrorException.class, () -> limiter.execute(() -> {
+            throw HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", null, null, null);
+        }));
+        limiter.execute(() -> new ResponseEntity<Void>(HttpStatus.TOO_MANY_REQUESTS));
+
+        assertEquals(16, limiter.getLimit(), "Each 429 should cut the limit by 10%");
+        assertEquals(0, limiter.getInFlight(), "Permits must be released when the call fails");
+    }
+
+    @Test
+    void limitBacksOffOnTimeout() {
+        AdaptiveConcurrencyLimiter limiter = limiter(10, 1, 32, 2.0, () -> 0.0);
+
+        assertThrows(ResourceAccessException.class, () -> limiter.execute(() -> {
+            throw new ResourceAccessException("Read timed out");
+        }));
+
+        assertEquals(9, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void errorThrownByCallReleasesPermit() {
+        AdaptiveConcurrencyLimiter limiter = limiter(1, 1, 1, 2.0, () -> 0.0);
+
+        assertThrows(AssertionError.class, () -> limiter.execute(() -> {
+            throw new AssertionError("boom");
+        }));
+
+        assertEquals(0, limiter.getInFlight(), "An Error must not leak the permit");
+        assertEquals("ok", limiter.execute(() -> "ok"), "The single permit should still be available");
+    }
+
+    @Test
+    void failingHeapProbeDoesNotCorruptInFlightCount() {
+        AdaptiveConcurrencyLimiter limiter = limiter(1, 1, 1, 2.0, () -> {
+            throw new IllegalStateException("MXBean unavailable");
+        });
+
+        callTaking(limiter, 10, 30);
+
+        assertEquals(0, limiter.getInFlight(), "Permits must be released exactly once");
+    }
+
+    @Test
+    void limitBacksOffUnderHeapPressure() {
+        AdaptiveConcurrencyLimiter limiter = limiter(10, 2, 32, 2.0, () -> 0.95);
+
+        callTaking(limiter, 10, 200);
+
+        assertEquals(2, limiter.getLimit(), "Limit should not drop below the configured minimum");
+    }
+
+    @Test
+    void acquireGivesUpAfterTimeout() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 1, 1, 1, 2.0, 0.85,
+                Duration.ofMillis(50), () -> 0.0);
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Thread holder = new Thread(() -> limiter.execute(() -> {
+            holding.countDown();
+            try {
+                return release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }));
+        holder.start();
+        try {
+            assertTrue(holding.await(5, TimeUnit.SECONDS));
+            assertThrows(IllegalStateException.class, () -> limiter.execute(() -> "never runs"));
+        } finally {
+            release.countDown();
+            holder.join();
+        }
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void inFlightCallsNeverExceedLimit() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 2, 2, 2, 2.0, 0.85,
+                ACQUIRE_TIMEOUT, () -> 0.0);
+        AtomicInteger concurrent = new AtomicInteger();
+        AtomicInteger maxConcurrent = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(8);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            for (int i = 0; i < 8; i++) {
+                executor.submit(() -> {
+                    limiter.execute(() -> {
+                        maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+                        try {
+                            Thread.sleep(20);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        return concurrent.decrementAndGet();
+                    });
+                    done.countDown();
+                });
+            }
+            assertTrue(done.await(5, TimeUnit.SECONDS), "All calls should complete");
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertTrue(maxConcurrent.get() <= 2, "At most 2 calls may run at once, saw " + maxConcurrent.get());
+    }
+}
@@ -0,0 +1,55 @@
+package com.competitivearmylists.scrapingservice;
+
+import com.competitivearmylists.scrapingservice.service.AdaptiveConcurrencyLimiter;
+import com.competitivearmylists.scrapingservice.service.ConcurrencyLimiterRegistry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrencyLimiterRegistryTests {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ConcurrencyLimiterRegistry registry =
+            new ConcurrencyLimiterRegistry(meterRegistry, 4, 1, 32, 2.0, 0.85, 1000);
+
+    @Test
+    void registersLimitAndInFlightGaugesPerTarget() {
+        AdaptiveConcurrencyLimiter limiter = registry.forUrl("https://example.com/competition/results");
+
+        Gauge limitGauge = meterRegistry.find("scraper.concurrency.limit").tag("target", "example.com").gauge();
+        Gauge inFlightGauge = meterRegistry.find("scraper.concurrency.inflight").tag("target", "example.com").gauge();
+        assertNotNull(limitGauge, "Limit gauge should be registered for the target host");
+        assertNotNull(inFlightGauge, "In-flight gauge should be registered for the target host");
+        assertEquals(4.0, limitGauge.value());
+        assertEquals(0.0, inFlightGauge.value());
+
+        limiter.execute(() -> {
+            assertEquals(1.0, inFlightGauge.value(), "In-flight gauge should reflect the running call");
+            return null;
+        });
+        assertEquals(0.0, inFlightGauge.value());
+    }
+
+    @Test
+    void urlsOnSameHostShareOneLimiter() {
+        assertSame(registry.forUrl("https://example.com/a"), registry.forUrl("https://example.com/b?page=2"));
+        assertNotSame(registry.forUrl("https://example.com/a"), registry.forUrl("https://other.example.org/a"));
+    }
+
+    @Test
+    void forUrlAcceptsUrlsThatUriCreateRejects() {
+        // URI templates and unencoded spaces are valid for RestTemplate but not for java.net.URI
+        assertSame(registry.forUrl("https://example.com/results"),
+                registry.forUrl("https://example.com/results/{season}"));
+        assertNotNull(registry.forUrl("https://example.com/results?event=100m final"));
+    }
+
+    @Test
+    void storageServiceLimiterIsSharedAndTagged() {
+        assertSame(registry.forStorageService(), registry.forStorageService());
+        assertNotNull(meterRegistry.find("scraper.concurrency.limit")
+                .tag("target", ConcurrencyLimiterRegistry.STORAGE_SERVICE).gauge());
+    }
+}
@@ -3,7 +3,9 @@ package com.competitivearmylists.scrapingservice;
 import com.competitivearmylists.scrapingservice.model.CompetitorEventResultDto;
 import com.competitivearmylists.scrapingservice.model.TokenResponse;
 import com.competitivearmylists.scrapingservice.service.AuthService;
+import com.competitivearmylists.scrapingservice.service.ConcurrencyLimiterRegistry;
 import com.competitivearmylists.scrapingservice.service.Scraper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.junit.Before;
@@ -12,12 +14,14 @@ import org.junit.runner.RunWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
@@ -33,6 +37,9 @@ public class ScraperTests {
     private AuthService authService;
     @Mock
     private RestTemplate restTemplate;
+    @Spy
+    private ConcurrencyLimiterRegistry concurrencyLimiters =
+            new ConcurrencyLimiterRegistry(new SimpleMeterRegistry(), 4, 1, 32, 2.0, 0.85, 1000);
     @InjectMocks
     private Scraper scraper;
 
@@ -47,7 +54,8 @@ public class ScraperTests {
 
     @Before
     public void setUp() {
-        // No special setup needed beyond Mockito initialization
+        // @InjectMocks does not resolve @Value, so apply the default target URL by hand
+        ReflectionTestUtils.setField(scraper, "targetUrl", "https://example.com/competition/results");
     }
 
     @Test